@@ -11,8 +11,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 
-public class GenreDao {
+public class GenreDao implements GenreRepository {
         
+	@Override
 	public List<Genre> listGenres() {
             List<Genre> listOfGenres = new ArrayList<>();
             try (Connection connection = DataSourceFactory.getConnection()) {
@@ -47,6 +48,7 @@ public class GenreDao {
         */
 
 
+	@Override
 	public Optional<Genre> getGenre(String name) {
                 try (Connection connection = DataSourceFactory.getConnection()) {
                     try (PreparedStatement statement = connection.prepareStatement(
@@ -68,6 +70,7 @@ public class GenreDao {
             return Optional.empty();
 	}
 
+	@Override
 	public void addGenre(String name) {
 		try (Connection connection = DataSourceFactory.getConnection()) {
                 String sqlQuery = "INSERT INTO genre(name) VALUES(?)";
@@ -0,0 +1,37 @@
+package fr.isen.java2.db.daos;
+
+import java.util.List;
+import java.util.Optional;
+
+import fr.isen.java2.db.entities.Genre;
+
+/**
+ * Storage-independent access to genres.
+ *
+ * Implementations are selected through {@link RepositoryFactory} and must
+ * behave the same way whatever the underlying engine is.
+ */
+public interface GenreRepository {
+
+	/**
+	 * Retrieves all stored genres.
+	 *
+	 * @return a list of all genres, ordered by identifier
+	 */
+	List<Genre> listGenres();
+
+	/**
+	 * Retrieves a genre by its name.
+	 *
+	 * @param name the name of the genre
+	 * @return the matching genre, or an empty {@link Optional} if none exists
+	 */
+	Optional<Genre> getGenre(String name);
+
+	/**
+	 * Stores a new genre. Its identifier is generated by the engine.
+	 *
+	 * @param name the name of the genre
+	 */
+	void addGenre(String name);
+}
@@ -0,0 +1,95 @@
+package fr.isen.java2.db.daos;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tables shared by the in-memory repositories.
+ *
+ * Rows are immutable and stored in concurrent maps, so reads never take a
+ * lock. Secondary indexes on the genre name and on the genre id of movies
+ * avoid scanning the whole table when filtering. A row is always written
+ * to its primary map before being indexed, so an id found through an index
+ * can always be resolved.
+ *
+ * A single instance must be shared by the genre and movie repositories of
+ * the same engine, as movies reference genres by id.
+ */
+public class InMemoryDatabase {
+
+	record MovieRow(int id, String title, LocalDate releaseDate, int genreId, Integer duration, String director,
+			String summary) {
+	}
+
+	private final AtomicInteger genreSequence = new AtomicInteger();
+	private final AtomicInteger movieSequence = new AtomicInteger();
+
+	private final NavigableMap<Integer, String> genreNamesById = new ConcurrentSkipListMap<>();
+	private final ConcurrentMap<String, NavigableSet<Integer>> genreIdsByName = new ConcurrentHashMap<>();
+
+	private final NavigableMap<Integer, MovieRow> moviesById = new ConcurrentSkipListMap<>();
+	private final ConcurrentMap<Integer, NavigableSet<Integer>> movieIdsByGenreId = new ConcurrentHashMap<>();
+
+	/**
+	 * @return a read-only view of the genre names, ordered by genre id
+	 */
+	NavigableMap<Integer, String> genres() {
+		return Collections.unmodifiableNavigableMap(genreNamesById);
+	}
+
+	String genreName(int genreId) {
+		return genreNamesById.get(genreId);
+	}
+
+	/**
+	 * @param name the name of the genre
+	 * @return the ids of the genres with this name, in ascending order
+	 */
+	NavigableSet<Integer> genreIdsByName(String name) {
+		NavigableSet<Integer> ids = genreIdsByName.get(name);
+		return ids != null ? Collections.unmodifiableNavigableSet(ids) : Collections.emptyNavigableSet();
+	}
+
+	int insertGenre(String name) {
+		int id = genreSequence.incrementAndGet();
+		genreNamesById.put(id, name);
+		genreIdsByName.computeIfAbsent(name, key -> new ConcurrentSkipListSet<>()).add(id);
+		return id;
+	}
+
+	/**
+	 * @return a read-only view of the movies, ordered by movie id
+	 */
+	NavigableMap<Integer, MovieRow> movies() {
+		return Collections.unmodifiableNavigableMap(moviesById);
+	}
+
+	MovieRow movie(int movieId) {
+		return moviesById.get(movieId);
+	}
+
+	/**
+	 * @param genreId the id of the genre
+	 * @return the ids of the movies of this genre, in ascending order
+	 */
+	NavigableSet<Integer> movieIdsByGenreId(int genreId) {
+		NavigableSet<Integer> ids = movieIdsByGenreId.get(genreId);
+		return ids != null ? Collections.unmodifiableNavigableSet(ids) : Collections.emptyNavigableSet();
+	}
+
+	MovieRow insertMovie(String title, LocalDate releaseDate, int genreId, Integer duration, String director,
+			String summary) {
+		MovieRow row = new MovieRow(movieSequence.incrementAndGet(), title, releaseDate, genreId, duration,
+				director, summary);
+		moviesById.put(row.id(), row);
+		movieIdsByGenreId.computeIfAbsent(genreId, key -> new ConcurrentSkipListSet<>()).add(row.id());
+		return row;
+	}
+}
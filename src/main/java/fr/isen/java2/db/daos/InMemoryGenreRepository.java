@@ -0,0 +1,50 @@
+package fr.isen.java2.db.daos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+
+import fr.isen.java2.db.entities.Genre;
+
+/**
+ * {@link GenreRepository} backed by an {@link InMemoryDatabase}.
+ *
+ * Each call returns new Genre instances, so callers cannot alter the
+ * stored data by modifying them.
+ */
+public class InMemoryGenreRepository implements GenreRepository {
+
+	private final InMemoryDatabase database;
+
+	public InMemoryGenreRepository(InMemoryDatabase database) {
+		this.database = database;
+	}
+
+	@Override
+	public List<Genre> listGenres() {
+		List<Genre> listOfGenres = new ArrayList<>();
+		for (Map.Entry<Integer, String> entry : database.genres().entrySet()) {
+			listOfGenres.add(new Genre(entry.getKey(), entry.getValue()));
+		}
+		return listOfGenres;
+	}
+
+	@Override
+	public Optional<Genre> getGenre(String name) {
+		if (name == null) {
+			return Optional.empty();
+		}
+		NavigableSet<Integer> ids = database.genreIdsByName(name);
+		return ids.isEmpty() ? Optional.empty() : Optional.of(new Genre(ids.first(), name));
+	}
+
+	@Override
+	public void addGenre(String name) {
+		if (name == null) {
+			throw new RuntimeException("Genre name cannot be null");
+		}
+		database.insertGenre(name);
+	}
+}
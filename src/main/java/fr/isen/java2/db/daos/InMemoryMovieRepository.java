@@ -0,0 +1,87 @@
+package fr.isen.java2.db.daos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.isen.java2.db.daos.InMemoryDatabase.MovieRow;
+import fr.isen.java2.db.entities.Genre;
+import fr.isen.java2.db.entities.Movie;
+
+/**
+ * {@link MovieRepository} backed by an {@link InMemoryDatabase}.
+ *
+ * Like the SQL JOIN of {@link MovieDao}, movies whose genre does not exist
+ * are left out of the listings. Each call returns new Movie instances, so
+ * callers cannot alter the stored data by modifying them.
+ */
+public class InMemoryMovieRepository implements MovieRepository {
+
+	private final InMemoryDatabase database;
+
+	public InMemoryMovieRepository(InMemoryDatabase database) {
+		this.database = database;
+	}
+
+	@Override
+	public List<Movie> listMovies() {
+		List<Movie> listOfMovies = new ArrayList<>();
+		for (MovieRow row : database.movies().values()) {
+			String genreName = database.genreName(row.genreId());
+			if (genreName != null) {
+				listOfMovies.add(toMovie(row, new Genre(row.genreId(), genreName)));
+			}
+		}
+		return listOfMovies;
+	}
+
+	/**
+	 * Retrieves all movies belonging to a given genre.
+	 *
+	 * The genre name index gives the matching genre ids, then the genre id
+	 * index gives their movies, so no full scan of the movies is needed.
+	 *
+	 * @param genreName the name of the genre used as filter
+	 * @return a list of movies associated with the given genre
+	 */
+	@Override
+	public List<Movie> listMoviesByGenre(String genreName) {
+		List<Movie> listOfMoviesByGenre = new ArrayList<>();
+		if (genreName == null) {
+			return listOfMoviesByGenre;
+		}
+		for (Integer genreId : database.genreIdsByName(genreName)) {
+			Genre genre = new Genre(genreId, genreName);
+			for (Integer movieId : database.movieIdsByGenreId(genreId)) {
+				MovieRow row = database.movie(movieId);
+				if (row != null) {
+					listOfMoviesByGenre.add(toMovie(row, genre));
+				}
+			}
+		}
+		return listOfMoviesByGenre;
+	}
+
+	/**
+	 * Stores a new movie.
+	 *
+	 * The same constraints as the movie table are enforced: title and
+	 * director are mandatory and the genre must carry an identifier.
+	 *
+	 * @param movie the Movie to be persisted
+	 * @return a new Movie instance containing the generated identifier
+	 */
+	@Override
+	public Movie addMovie(Movie movie) {
+		if (movie.getTitle() == null || movie.getDirector() == null) {
+			throw new RuntimeException("Failed to insert movie: title and director are required");
+		}
+		MovieRow row = database.insertMovie(movie.getTitle(), movie.getReleaseDate(), movie.getGenre().getId(),
+				movie.getDuration(), movie.getDirector(), movie.getSummary());
+		return toMovie(row, movie.getGenre());
+	}
+
+	private static Movie toMovie(MovieRow row, Genre genre) {
+		return new Movie(row.id(), row.title(), row.releaseDate(), genre, row.duration(), row.director(),
+				row.summary());
+	}
+}
@@ -12,7 +12,7 @@ import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.ArrayList;
 
-public class MovieDao {
+public class MovieDao implements MovieRepository {
     
         
 	/**
@@ -27,6 +27,7 @@ public class MovieDao {
 	 * @return a list of all movies found in the database
 	 */
 
+	@Override
 	public List<Movie> listMovies() {
                 List<Movie> listOfMovies = new ArrayList<>();
                 try (Connection connection = DataSourceFactory.getConnection()) {
@@ -70,6 +71,7 @@ public class MovieDao {
 	 * @return a list of movies associated with the given genre
 	 */
 
+	@Override
 	public List<Movie> listMoviesByGenre(String genreName) {
 		List<Movie> listOfMoviesByGenre = new ArrayList<>();
                 try (Connection connection = DataSourceFactory.getConnection()) {
@@ -119,6 +121,7 @@ public class MovieDao {
 	 * @return a new Movie instance containing the generated identifier
 	 */
 
+	@Override
 	public Movie addMovie(Movie movie) {
 		try (Connection connection = DataSourceFactory.getConnection()) {
                 String sqlQuery = "INSERT INTO movie(title,release_date,genre_id,duration,director,summary) VALUES(?,?,?,?,?,?)";
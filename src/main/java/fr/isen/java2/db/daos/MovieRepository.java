@@ -0,0 +1,38 @@
+package fr.isen.java2.db.daos;
+
+import java.util.List;
+
+import fr.isen.java2.db.entities.Movie;
+
+/**
+ * Storage-independent access to movies.
+ *
+ * Implementations are selected through {@link RepositoryFactory} and must
+ * behave the same way whatever the underlying engine is. Only movies whose
+ * genre exists are returned by the listing methods.
+ */
+public interface MovieRepository {
+
+	/**
+	 * Retrieves all stored movies with their associated genre.
+	 *
+	 * @return a list of all movies
+	 */
+	List<Movie> listMovies();
+
+	/**
+	 * Retrieves all movies belonging to a given genre.
+	 *
+	 * @param genreName the name of the genre used as filter
+	 * @return a list of movies associated with the given genre
+	 */
+	List<Movie> listMoviesByGenre(String genreName);
+
+	/**
+	 * Stores a new movie.
+	 *
+	 * @param movie the Movie to be persisted
+	 * @return a new Movie instance containing the generated identifier
+	 */
+	Movie addMovie(Movie movie);
+}
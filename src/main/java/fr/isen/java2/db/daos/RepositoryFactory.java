@@ -0,0 +1,63 @@
+package fr.isen.java2.db.daos;
+
+import java.util.Locale;
+
+public class RepositoryFactory {
+
+	/**
+	 * System property used to select the storage engine. Accepted values are
+	 * {@code sqlite} (the default) and {@code memory}.
+	 */
+	public static final String ENGINE_PROPERTY = "movies.repository.engine";
+
+	public enum Engine {
+		SQLITE, MEMORY
+	}
+
+	private static final InMemoryDatabase IN_MEMORY_DATABASE = new InMemoryDatabase();
+
+	private RepositoryFactory() {
+		throw new IllegalStateException("This is a static class that should not be instantiated");
+	}
+
+	/**
+	 * Reads the engine selected by the {@value #ENGINE_PROPERTY} system property.
+	 *
+	 * @return the configured engine, {@link Engine#SQLITE} if none is set
+	 * @throws IllegalStateException if the property holds an unknown engine
+	 */
+	public static Engine getEngine() {
+		String value = System.getProperty(ENGINE_PROPERTY, Engine.SQLITE.name());
+		try {
+			return Engine.valueOf(value.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalStateException("Unknown repository engine: " + value, e);
+		}
+	}
+
+	/**
+	 * Provides a genre repository for the configured engine.
+	 * Repositories of the memory engine all share the same data.
+	 *
+	 * @return a {@link GenreRepository}
+	 */
+	public static GenreRepository getGenreRepository() {
+		return switch (getEngine()) {
+			case SQLITE -> new GenreDao();
+			case MEMORY -> new InMemoryGenreRepository(IN_MEMORY_DATABASE);
+		};
+	}
+
+	/**
+	 * Provides a movie repository for the configured engine.
+	 * Repositories of the memory engine all share the same data.
+	 *
+	 * @return a {@link MovieRepository}
+	 */
+	public static MovieRepository getMovieRepository() {
+		return switch (getEngine()) {
+			case SQLITE -> new MovieDao();
+			case MEMORY -> new InMemoryMovieRepository(IN_MEMORY_DATABASE);
+		};
+	}
+}
@@ -0,0 +1,81 @@
+package fr.isen.java2.db.daos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import fr.isen.java2.db.entities.Genre;
+
+/**
+ * Checks that {@link InMemoryGenreRepository} behaves like {@link GenreDao}
+ * on the same data set as {@link GenreDaoTestCase}.
+ */
+public class InMemoryGenreRepositoryTestCase {
+
+	private GenreRepository genreRepository;
+
+	@BeforeEach
+	public void initDatabase() {
+		genreRepository = new InMemoryGenreRepository(new InMemoryDatabase());
+		genreRepository.addGenre("Drama");
+		genreRepository.addGenre("Comedy");
+		genreRepository.addGenre("Thriller");
+	}
+
+	@Test
+	public void shouldListGenres() {
+		// WHEN
+		List<Genre> genres = genreRepository.listGenres();
+		// THEN
+		assertThat(genres).hasSize(3);
+		assertThat(genres).extracting("id", "name").containsExactly(tuple(1, "Drama"), tuple(2, "Comedy"),
+				tuple(3, "Thriller"));
+	}
+
+	@Test
+	public void shouldGetGenreByName() {
+		// WHEN
+		Optional<Genre> genre = genreRepository.getGenre("Comedy");
+		// THEN
+		assertThat(genre).isPresent();
+		assertThat(genre.get().getId()).isEqualTo(2);
+		assertThat(genre.get().getName()).isEqualTo("Comedy");
+	}
+
+	@Test
+	public void shouldNotGetUnknownGenre() {
+		assertThat(genreRepository.getGenre("Unknown")).isEmpty();
+		assertThat(genreRepository.getGenre(null)).isEmpty();
+	}
+
+	@Test
+	public void shouldAddGenre() {
+		// WHEN
+		genreRepository.addGenre("Western");
+		// THEN
+		Optional<Genre> genre = genreRepository.getGenre("Western");
+		assertThat(genre).isPresent();
+		assertThat(genre.get().getId()).isEqualTo(4);
+		assertThat(genreRepository.listGenres()).hasSize(4);
+	}
+
+	@Test
+	public void shouldNotAddGenreWithoutName() {
+		assertThatThrownBy(() -> genreRepository.addGenre(null)).isInstanceOf(RuntimeException.class);
+	}
+
+	@Test
+	public void shouldNotExposeStoredGenres() {
+		// WHEN
+		genreRepository.getGenre("Drama").get().setName("Changed");
+		// THEN
+		assertThat(genreRepository.getGenre("Drama")).isPresent();
+		assertThat(genreRepository.listGenres()).extracting("name").doesNotContain("Changed");
+	}
+}
@@ -0,0 +1,139 @@
+package fr.isen.java2.db.daos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import fr.isen.java2.db.entities.Genre;
+import fr.isen.java2.db.entities.Movie;
+
+/**
+ * Checks that {@link InMemoryMovieRepository} behaves like {@link MovieDao}
+ * on the same data set as {@link MovieDaoTestCase}.
+ */
+public class InMemoryMovieRepositoryTestCase {
+
+	private final Genre drama = new Genre(1, "Drama");
+	private final Genre comedy = new Genre(2, "Comedy");
+
+	private InMemoryDatabase database;
+	private MovieRepository movieRepository;
+
+	/**
+	 * Creates a fresh database before each test, so tests stay isolated
+	 * and generated identifiers start from 1.
+	 */
+	@BeforeEach
+	public void initDb() {
+		database = new InMemoryDatabase();
+		GenreRepository genreRepository = new InMemoryGenreRepository(database);
+		genreRepository.addGenre("Drama");
+		genreRepository.addGenre("Comedy");
+		movieRepository = new InMemoryMovieRepository(database);
+		movieRepository.addMovie(new Movie("Title 1", LocalDate.of(2015, 11, 26), drama, 120, "director 1",
+				"summary of the first movie"));
+		movieRepository.addMovie(new Movie("My Title 2", LocalDate.of(2015, 11, 14), comedy, 114, "director 2",
+				"summary of the second movie"));
+		movieRepository.addMovie(new Movie("Third title", LocalDate.of(2015, 12, 12), comedy, 176, "director 3",
+				"summary of the third movie"));
+	}
+
+	@Test
+	public void shouldListMovies() {
+		// WHEN
+		List<Movie> movies = movieRepository.listMovies();
+
+		// THEN
+		assertThat(movies).extracting("id", "title", "genre.name", "duration", "director").containsExactly(
+				tuple(1, "Title 1", "Drama", 120, "director 1"),
+				tuple(2, "My Title 2", "Comedy", 114, "director 2"),
+				tuple(3, "Third title", "Comedy", 176, "director 3"));
+	}
+
+	@Test
+	public void shouldListMoviesByGenre() {
+		// WHEN
+		List<Movie> movies = movieRepository.listMoviesByGenre("Comedy");
+
+		// THEN
+		assertThat(movies).extracting("title").containsExactly("My Title 2", "Third title");
+		assertThat(movies).allMatch(movie -> movie.getGenre().getName().equals("Comedy"));
+		assertThat(movieRepository.listMoviesByGenre("Unknown")).isEmpty();
+		assertThat(movieRepository.listMoviesByGenre(null)).isEmpty();
+	}
+
+	/**
+	 * Verifies that movies referencing a missing genre are left out,
+	 * as with the JOIN performed by {@link MovieDao}.
+	 */
+	@Test
+	public void shouldIgnoreMoviesWithUnknownGenre() {
+		// WHEN
+		Movie orphan = movieRepository.addMovie(
+				new Movie("Orphan", null, new Genre(42, "Unknown"), null, "director 4", null));
+
+		// THEN
+		assertThat(orphan.getId()).isEqualTo(4);
+		assertThat(movieRepository.listMovies()).extracting("title").doesNotContain("Orphan");
+	}
+
+	@Test
+	public void shouldAddMovie() {
+		// GIVEN
+		Movie movieToAdd = new Movie(null, "New Movie", LocalDate.of(2020, 1, 15), drama, 95, "New Director",
+				"A brand new movie");
+
+		// WHEN
+		Movie addedMovie = movieRepository.addMovie(movieToAdd);
+
+		// THEN
+		assertThat(addedMovie.getId()).isEqualTo(4);
+		assertThat(addedMovie.getTitle()).isEqualTo("New Movie");
+		assertThat(addedMovie.getGenre().getName()).isEqualTo("Drama");
+		assertThat(movieRepository.listMoviesByGenre("Drama")).extracting("id", "director")
+				.containsExactly(tuple(1, "director 1"), tuple(4, "New Director"));
+	}
+
+	@Test
+	public void shouldNotAddMovieWithoutTitle() {
+		assertThatThrownBy(() -> movieRepository.addMovie(
+				new Movie(null, null, drama, null, "director", null))).isInstanceOf(RuntimeException.class);
+		assertThat(movieRepository.listMovies()).hasSize(3);
+	}
+
+	/**
+	 * Verifies that concurrent writers get distinct identifiers and that
+	 * no movie is lost from the indexes.
+	 */
+	@Test
+	public void shouldAddMoviesConcurrently() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Movie>> futures = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				String title = "Concurrent " + i;
+				futures.add(executor.submit(() -> movieRepository.addMovie(
+						new Movie(title, null, comedy, null, "director", null))));
+			}
+			for (Future<Movie> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(movieRepository.listMovies()).hasSize(203);
+		assertThat(movieRepository.listMoviesByGenre("Comedy")).hasSize(202)
+				.extracting("id").doesNotHaveDuplicates();
+	}
+}
@@ -0,0 +1,37 @@
+package fr.isen.java2.db.daos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class RepositoryFactoryTestCase {
+
+	@AfterEach
+	public void clearEngine() {
+		System.clearProperty(RepositoryFactory.ENGINE_PROPERTY);
+	}
+
+	@Test
+	public void shouldUseSqliteByDefault() {
+		assertThat(RepositoryFactory.getEngine()).isEqualTo(RepositoryFactory.Engine.SQLITE);
+		assertThat(RepositoryFactory.getGenreRepository()).isInstanceOf(GenreDao.class);
+		assertThat(RepositoryFactory.getMovieRepository()).isInstanceOf(MovieDao.class);
+	}
+
+	@Test
+	public void shouldUseMemoryEngineWhenConfigured() {
+		// GIVEN
+		System.setProperty(RepositoryFactory.ENGINE_PROPERTY, "memory");
+		// THEN
+		assertThat(RepositoryFactory.getGenreRepository()).isInstanceOf(InMemoryGenreRepository.class);
+		assertThat(RepositoryFactory.getMovieRepository()).isInstanceOf(InMemoryMovieRepository.class);
+	}
+
+	@Test
+	public void shouldRejectUnknownEngine() {
+		System.setProperty(RepositoryFactory.ENGINE_PROPERTY, "oracle");
+		assertThatThrownBy(RepositoryFactory::getEngine).isInstanceOf(IllegalStateException.class);
+	}
+}